@@ -11,6 +11,8 @@ import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class WorkflowRunner implements ApplicationRunner {
 
@@ -56,6 +58,15 @@ public class WorkflowRunner implements ApplicationRunner {
             log.info("Step 2: Determining question URL based on registration number");
             String questionUrl = webhookService.getQuestionUrl(regNo);
 
+            List<String> rejected = webhookService.drainRejectedRegNos();
+            if (!rejected.isEmpty()) {
+                log.error("Rejected registration numbers ({}): {}", rejected.size(), rejected);
+            }
+
+            if (questionUrl == null) {
+                return;
+            }
+
             // Step 3: Process question and generate SQL query
             log.info("Step 3: Processing question and generating SQL query");
             String sqlQuery = webhookService.processQuestionAndGenerateQuery(questionUrl);
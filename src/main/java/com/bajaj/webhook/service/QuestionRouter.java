@@ -0,0 +1,257 @@
+package com.bajaj.webhook.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Routes registration numbers to question URLs.
+ *
+ * Rules are read from {@code webhook.routing.rules} as a comma separated list of
+ * {@code type:pattern=target} entries and compiled once at startup into flat lookup
+ * tables, so routing a regNo never parses or allocates. Supported types:
+ * <ul>
+ *     <li>{@code override:22BCT0001=question2} - exact registration number</li>
+ *     <li>{@code suffix:99=question1} - registration number ends with pattern (longest wins)</li>
+ *     <li>{@code prefix:21=question2} - registration number starts with pattern (longest wins)</li>
+ *     <li>{@code bucket:4/0=question1} - {@code hashCode() mod 4} equals 0 (one bucket count per rule set)</li>
+ * </ul>
+ * Rules are checked in the order above and a pattern may only appear once per type. A target is {@code question1}, {@code question2}
+ * or an absolute http(s) URL, and may not contain commas. When no rule matches, the original
+ * odd/even rule on the last two digits applies; registration numbers that cannot be routed are
+ * added to the reject queue, which {@link com.bajaj.webhook.runner.WorkflowRunner} drains
+ * and reports after routing.
+ *
+ * The router is a shared singleton, so the reject queue is bounded to {@value #MAX_REJECTED}
+ * entries. Once full, further rejects are counted and dropped, and the count is logged with a
+ * warning on the next {@link #drainRejected()}. Batch callers should drain after each batch.
+ */
+@Component
+public class QuestionRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(QuestionRouter.class);
+
+    private final String question1Url;
+    private final String question2Url;
+
+    private final Map<String, String> overrides = new HashMap<>();
+    private final String[] suffixes;
+    private final String[] suffixTargets;
+    private final String[] prefixes;
+    private final String[] prefixTargets;
+    private final String[] bucketTargets;
+
+    static final int MAX_REJECTED = 1000;
+
+    private final BlockingQueue<String> rejected = new ArrayBlockingQueue<>(MAX_REJECTED);
+    private final AtomicLong droppedRejects = new AtomicLong();
+
+    public QuestionRouter(@Value("${webhook.question1.url}") String question1Url,
+                          @Value("${webhook.question2.url}") String question2Url,
+                          @Value("${webhook.routing.rules:}") String rules) {
+        this.question1Url = question1Url;
+        this.question2Url = question2Url;
+
+        Set<String> suffixPatterns = new HashSet<>();
+        Set<String> prefixPatterns = new HashSet<>();
+        List<String[]> suffixRules = new ArrayList<>();
+        List<String[]> prefixRules = new ArrayList<>();
+        Map<Integer, String> bucketRules = new HashMap<>();
+        int bucketCount = 0;
+
+        for (String rule : rules.split(",")) {
+            rule = rule.trim();
+            if (rule.isEmpty()) {
+                continue;
+            }
+
+            int colon = rule.indexOf(':');
+            int equals = rule.indexOf('=', colon + 1);
+            if (colon <= 0 || equals < 0) {
+                throw new IllegalArgumentException("Invalid routing rule '" + rule
+                        + "', expected type:pattern=target");
+            }
+            String type = rule.substring(0, colon).trim();
+            String pattern = rule.substring(colon + 1, equals).trim();
+            String rawTarget = rule.substring(equals + 1).trim();
+            if (type.isEmpty() || pattern.isEmpty() || rawTarget.isEmpty()) {
+                throw new IllegalArgumentException("Invalid routing rule '" + rule
+                        + "', type, pattern and target must not be empty");
+            }
+            String target = resolveTarget(rawTarget);
+
+            switch (type) {
+                case "override" -> {
+                    if (overrides.put(pattern, target) != null) {
+                        throw new IllegalArgumentException("Duplicate routing override for " + pattern);
+                    }
+                }
+                case "suffix" -> {
+                    if (!suffixPatterns.add(pattern)) {
+                        throw new IllegalArgumentException("Duplicate routing suffix " + pattern);
+                    }
+                    suffixRules.add(new String[]{pattern, target});
+                }
+                case "prefix" -> {
+                    if (!prefixPatterns.add(pattern)) {
+                        throw new IllegalArgumentException("Duplicate routing prefix " + pattern);
+                    }
+                    prefixRules.add(new String[]{pattern, target});
+                }
+                case "bucket" -> {
+                    int slash = pattern.indexOf('/');
+                    int count;
+                    int bucket;
+                    try {
+                        count = Integer.parseInt(pattern.substring(0, slash).trim());
+                        bucket = Integer.parseInt(pattern.substring(slash + 1).trim());
+                    } catch (RuntimeException e) {
+                        throw new IllegalArgumentException("Invalid bucket rule '" + rule
+                                + "', expected bucket:count/index=target", e);
+                    }
+                    if (count <= 0 || bucket < 0 || bucket >= count) {
+                        throw new IllegalArgumentException("Bucket index out of range in rule '" + rule + "'");
+                    }
+                    if (bucketCount != 0 && bucketCount != count) {
+                        throw new IllegalArgumentException("All bucket rules must use the same bucket count");
+                    }
+                    bucketCount = count;
+                    if (bucketRules.put(bucket, target) != null) {
+                        throw new IllegalArgumentException("Duplicate routing bucket " + bucket);
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown routing rule type '" + type + "'");
+            }
+        }
+
+        // Longest pattern first so the most specific rule wins; sort is stable for ties
+        Comparator<String[]> longestFirst = Comparator.comparingInt((String[] r) -> r[0].length()).reversed();
+        suffixRules.sort(longestFirst);
+        prefixRules.sort(longestFirst);
+
+        this.suffixes = column(suffixRules, 0);
+        this.suffixTargets = column(suffixRules, 1);
+        this.prefixes = column(prefixRules, 0);
+        this.prefixTargets = column(prefixRules, 1);
+
+        if (bucketCount == 0) {
+            this.bucketTargets = null;
+        } else {
+            this.bucketTargets = new String[bucketCount];
+            bucketRules.forEach((bucket, target) -> bucketTargets[bucket] = target);
+        }
+
+        log.info("Compiled question routing: {} overrides, {} suffix rules, {} prefix rules, {} buckets",
+                overrides.size(), suffixes.length, prefixes.length, bucketCount);
+    }
+
+    /**
+     * Resolve the question URL for a registration number.
+     * Returns null and adds the regNo to the reject queue when it cannot be routed.
+     */
+    public String route(String regNo) {
+        if (regNo == null || regNo.isEmpty()) {
+            return reject(regNo);
+        }
+
+        String target = overrides.get(regNo);
+        if (target != null) {
+            return target;
+        }
+        for (int i = 0; i < suffixes.length; i++) {
+            if (regNo.endsWith(suffixes[i])) {
+                return suffixTargets[i];
+            }
+        }
+        for (int i = 0; i < prefixes.length; i++) {
+            if (regNo.startsWith(prefixes[i])) {
+                return prefixTargets[i];
+            }
+        }
+        if (bucketTargets != null) {
+            target = bucketTargets[Math.floorMod(regNo.hashCode(), bucketTargets.length)];
+            if (target != null) {
+                return target;
+            }
+        }
+
+        // Default rule: parity of the last two digits (odd -> question 1, even -> question 2)
+        int length = regNo.length();
+        if (length < 2 || !isDigit(regNo.charAt(length - 2)) || !isDigit(regNo.charAt(length - 1))) {
+            return reject(regNo);
+        }
+        return (regNo.charAt(length - 1) - '0') % 2 == 0 ? question2Url : question1Url;
+    }
+
+    /**
+     * Remove and return all registration numbers rejected so far
+     * (at most {@value #MAX_REJECTED}; any dropped beyond that are logged as a count)
+     */
+    public List<String> drainRejected() {
+        List<String> drained = new ArrayList<>();
+        rejected.drainTo(drained);
+
+        long dropped = droppedRejects.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("Reject queue was full, {} further rejected registration numbers were dropped", dropped);
+        }
+        return drained;
+    }
+
+    private String reject(String regNo) {
+        if (!rejected.offer(String.valueOf(regNo))) {
+            droppedRejects.incrementAndGet();
+        }
+        return null;
+    }
+
+    private String resolveTarget(String target) {
+        return switch (target) {
+            case "question1" -> question1Url;
+            case "question2" -> question2Url;
+            default -> {
+                if (!isHttpUrl(target)) {
+                    throw new IllegalArgumentException("Invalid routing target '" + target
+                            + "', expected question1, question2 or an absolute http(s) URL");
+                }
+                yield target;
+            }
+        };
+    }
+
+    private static boolean isHttpUrl(String target) {
+        try {
+            URI uri = URI.create(target);
+            return uri.isAbsolute()
+                    && ("http".equalsIgnoreCase(uri.getScheme()) || "https".equalsIgnoreCase(uri.getScheme()))
+                    && uri.getHost() != null;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static String[] column(List<String[]> rules, int index) {
+        String[] values = new String[rules.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rules.get(i)[index];
+        }
+        return values;
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Service
 public class WebhookService {
 
@@ -28,15 +30,12 @@ public class WebhookService {
     @Value("${webhook.test.url}")
     private String testWebhookUrl;
 
-    @Value("${webhook.question1.url}")
-    private String question1Url;
-
-    @Value("${webhook.question2.url}")
-    private String question2Url;
+    private final QuestionRouter questionRouter;
 
     @Autowired
-    public WebhookService(WebClient webClient) {
+    public WebhookService(WebClient webClient, QuestionRouter questionRouter) {
         this.webClient = webClient;
+        this.questionRouter = questionRouter;
     }
 
     /**
@@ -77,23 +76,25 @@ public class WebhookService {
 
     /**
      * Determine which question URL to use based on registration number
+     * Returns null if the registration number cannot be routed (it is added to the reject queue)
      */
     public String getQuestionUrl(String regNo) {
-        // Extract last two digits
-        int lastTwoDigits = Integer.parseInt(regNo.substring(regNo.length() - 2));
-        
-        String questionUrl;
-        if (lastTwoDigits % 2 == 0) {
-            log.info("Registration number ends with even digits ({}). Using Question 2.", lastTwoDigits);
-            questionUrl = question2Url;
-        } else {
-            log.info("Registration number ends with odd digits ({}). Using Question 1.", lastTwoDigits);
-            questionUrl = question1Url;
+        String questionUrl = questionRouter.route(regNo);
+
+        if (questionUrl != null) {
+            log.info("Registration number {} routed to question URL: {}", regNo, questionUrl);
         }
-        
+
         return questionUrl;
     }
 
+    /**
+     * Remove and return registration numbers that could not be routed to a question
+     */
+    public List<String> drainRejectedRegNos() {
+        return questionRouter.drainRejected();
+    }
+
     /**
      * Process the question and generate SQL query
      * Currently returns a mock SQL query as per requirements
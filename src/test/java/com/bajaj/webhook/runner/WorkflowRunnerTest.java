@@ -12,6 +12,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -76,6 +78,31 @@ class WorkflowRunnerTest {
         verify(webhookService, never()).sendTestWebhook(anyString(), anyString());
     }
 
+    @Test
+    void testRun_RejectedRegNo() {
+        // Arrange
+        String malformedRegNo = "22BCT00AB";
+        ReflectionTestUtils.setField(workflowRunner, "regNo", malformedRegNo);
+
+        WebhookGenerationResponse webhookResponse = new WebhookGenerationResponse();
+        webhookResponse.setWebhookUrl("https://example.com/webhook");
+        webhookResponse.setAccessToken("test-token-12345");
+
+        when(webhookService.generateWebhook(any(WebhookGenerationRequest.class)))
+                .thenReturn(webhookResponse);
+        when(webhookService.getQuestionUrl(malformedRegNo)).thenReturn(null);
+        when(webhookService.drainRejectedRegNos()).thenReturn(List.of(malformedRegNo));
+
+        // Act
+        workflowRunner.run(applicationArguments);
+
+        // Assert
+        verify(webhookService).getQuestionUrl(malformedRegNo);
+        verify(webhookService).drainRejectedRegNos();
+        verify(webhookService, never()).processQuestionAndGenerateQuery(anyString());
+        verify(webhookService, never()).sendTestWebhook(anyString(), anyString());
+    }
+
     @Test
     void testRun_Exception() {
         // Arrange
@@ -0,0 +1,134 @@
+package com.bajaj.webhook.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuestionRouterTest {
+
+    private static final String QUESTION1_URL = "https://drive.google.com/file/d/1LAPx2to9zmN5DY0tkMrJRNvJrNVx1gnR/view";
+    private static final String QUESTION2_URL = "https://drive.google.com/file/d/1b0p5C-6fUrUQglJVaWWAAB3P12lfoBCH/view";
+    private static final String QUESTION3_URL = "https://example.com/question3";
+
+    @Test
+    void testRoute_DefaultParity() {
+        // Arrange
+        QuestionRouter router = new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "");
+
+        // Act & Assert
+        assertEquals(QUESTION1_URL, router.route("22BCT0093"));
+        assertEquals(QUESTION2_URL, router.route("22BCT0094"));
+        assertTrue(router.drainRejected().isEmpty());
+    }
+
+    @Test
+    void testRoute_MalformedRegNoIsRejected() {
+        // Arrange
+        QuestionRouter router = new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "");
+
+        // Act
+        String abc = router.route("22BCTABC");
+        String empty = router.route("");
+        String single = router.route("7");
+
+        // Assert
+        assertNull(abc);
+        assertNull(empty);
+        assertNull(single);
+        assertEquals(List.of("22BCTABC", "", "7"), router.drainRejected());
+        assertTrue(router.drainRejected().isEmpty());
+    }
+
+    @Test
+    void testRoute_RulePrecedence() {
+        // Arrange
+        QuestionRouter router = new QuestionRouter(QUESTION1_URL, QUESTION2_URL,
+                "prefix:21=" + QUESTION3_URL + ", suffix:4=question1, suffix:094=question2, "
+                        + "override:21BCT0094=question1");
+
+        // Act & Assert
+        assertEquals(QUESTION1_URL, router.route("21BCT0094"));  // override
+        assertEquals(QUESTION2_URL, router.route("22BCT0094"));  // longest suffix
+        assertEquals(QUESTION1_URL, router.route("22BCT0084"));  // shorter suffix
+        assertEquals(QUESTION3_URL, router.route("21BCT0081"));  // prefix
+        assertEquals(QUESTION1_URL, router.route("23BCT0081"));  // default parity
+    }
+
+    @Test
+    void testRoute_SuffixRuleRoutesNonNumericRegNo() {
+        // Arrange
+        QuestionRouter router = new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "suffix:X=question2");
+
+        // Act & Assert
+        assertEquals(QUESTION2_URL, router.route("22BCT009X"));
+        assertTrue(router.drainRejected().isEmpty());
+    }
+
+    @Test
+    void testRoute_HashBucket() {
+        // Arrange
+        QuestionRouter router = new QuestionRouter(QUESTION1_URL, QUESTION2_URL,
+                "bucket:2/0=" + QUESTION3_URL + ", bucket:2/1=" + QUESTION3_URL);
+
+        // Act & Assert
+        assertEquals(QUESTION3_URL, router.route("22BCT0093"));
+        assertEquals(QUESTION3_URL, router.route("22BCTABC"));
+    }
+
+    @Test
+    void testConstructor_InvalidRules() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "suffix:9"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "regex:.*=question1"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "bucket:4/4=question1"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "bucket:2/0=question1, bucket:3/0=question2"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "override:A=question1, override:A=question2"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "suffix:99=Question1"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "suffix:99=ftp://example.com/q"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "suffix:99=question1, suffix:99=question2"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "prefix:21=question1, prefix:21=question2"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "bucket:4/0=question1, bucket:4/0=question2"));
+    }
+
+    @Test
+    void testRoute_RejectQueueIsBounded() {
+        // Arrange
+        QuestionRouter router = new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "");
+
+        // Act
+        for (int i = 0; i < QuestionRouter.MAX_REJECTED + 5; i++) {
+            assertNull(router.route("BAD" + i + "X"));
+        }
+
+        // Assert
+        List<String> drained = router.drainRejected();
+        assertEquals(QuestionRouter.MAX_REJECTED, drained.size());
+        assertEquals("BAD0X", drained.get(0));
+        assertTrue(router.drainRejected().isEmpty());
+    }
+
+    @Test
+    void testConstructor_BlankPatternRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "prefix:  =question2"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "suffix: =question2"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "override:\t=question2"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "bucket: =question2"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuestionRouter(QUESTION1_URL, QUESTION2_URL, "suffix:9=  "));
+    }
+}
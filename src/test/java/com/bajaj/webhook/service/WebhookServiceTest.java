@@ -6,7 +6,6 @@ import com.bajaj.webhook.dto.WebhookGenerationResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
@@ -15,6 +14,8 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -37,7 +38,6 @@ class WebhookServiceTest {
     @Mock
     private WebClient.ResponseSpec responseSpec;
 
-    @InjectMocks
     private WebhookService webhookService;
 
     private static final String GENERATE_URL = "https://bfhldevapigw.healthrx.co.in/hiring/generateWebhook/JAVA";
@@ -47,10 +47,9 @@ class WebhookServiceTest {
 
     @BeforeEach
     void setUp() {
+        webhookService = new WebhookService(webClient, new QuestionRouter(QUESTION1_URL, QUESTION2_URL, ""));
         ReflectionTestUtils.setField(webhookService, "generateWebhookUrl", GENERATE_URL);
         ReflectionTestUtils.setField(webhookService, "testWebhookUrl", TEST_URL);
-        ReflectionTestUtils.setField(webhookService, "question1Url", QUESTION1_URL);
-        ReflectionTestUtils.setField(webhookService, "question2Url", QUESTION2_URL);
     }
 
     @Test
@@ -127,6 +126,19 @@ class WebhookServiceTest {
         assertEquals(QUESTION2_URL, questionUrl);
     }
 
+    @Test
+    void testGetQuestionUrl_MalformedRegNo() {
+        // Arrange - regNo ends with non-digits
+        String regNo = "22BCT00AB";
+
+        // Act
+        String questionUrl = webhookService.getQuestionUrl(regNo);
+
+        // Assert
+        assertNull(questionUrl);
+        assertEquals(List.of(regNo), webhookService.drainRejectedRegNos());
+    }
+
     @Test
     void testProcessQuestionAndGenerateQuery() {
         // Arrange